@@ -2,8 +2,10 @@ package com.cricket.tournamentmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TournamentManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(TournamentManagementApplication.class, args);
@@ -0,0 +1,25 @@
+package com.cricket.tournamentmanagement.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.cricket.tournamentmanagement.dto.ChangeFeedResponse;
+import com.cricket.tournamentmanagement.service.ChangeFeedService;
+
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+    
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
+    @GetMapping
+    public DeferredResult<ChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        return changeFeedService.getChanges(after, limit, waitSeconds);
+    }
+}
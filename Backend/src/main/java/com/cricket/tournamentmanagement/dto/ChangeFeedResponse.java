@@ -0,0 +1,24 @@
+package com.cricket.tournamentmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.cricket.tournamentmanagement.model.ChangeEvent;
+
+import java.util.List;
+
+/**
+ * A batch of the change feed. Consumers pass {@code lastSeq} back as {@code after}
+ * on their next request, even when compaction dropped some of the scanned events.
+ * {@code resyncRequired} means events after {@code after} were already pruned: the
+ * consumer should reload from the {@code /list} endpoints and resume from {@code lastSeq}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private long lastSeq;
+    private boolean resyncRequired;
+    private List<ChangeEvent> changes;
+}
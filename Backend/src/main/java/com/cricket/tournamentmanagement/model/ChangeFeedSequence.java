@@ -0,0 +1,27 @@
+package com.cricket.tournamentmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter for the change feed. Writers lock this row to take the next
+ * sequence number, which keeps outbox commits in sequence order across instances.
+ */
+@Entity
+@Table(name = "change_feed_sequence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedSequence {
+    
+    @Id
+    private Long id;
+    
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+    
+    @Column(name = "pruned_seq", nullable = false)
+    private Long prunedSeq;
+}
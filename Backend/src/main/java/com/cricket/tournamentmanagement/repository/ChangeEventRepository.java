@@ -0,0 +1,26 @@
+package com.cricket.tournamentmanagement.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.cricket.tournamentmanagement.model.ChangeEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+    
+    List<ChangeEvent> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+    
+    @Query("SELECT MAX(e.seq) FROM ChangeEvent e WHERE e.createdAt < :cutoff")
+    Long findMaxSeqCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    @Modifying
+    @Query("DELETE FROM ChangeEvent e WHERE e.seq <= :seq")
+    int deleteUpTo(@Param("seq") Long seq);
+}
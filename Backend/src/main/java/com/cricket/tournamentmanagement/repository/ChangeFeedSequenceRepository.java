@@ -0,0 +1,34 @@
+package com.cricket.tournamentmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cricket.tournamentmanagement.model.ChangeFeedSequence;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeFeedSequenceRepository extends JpaRepository<ChangeFeedSequence, Long> {
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChangeFeedSequence s WHERE s.id = :id")
+    Optional<ChangeFeedSequence> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query("SELECT s.lastSeq FROM ChangeFeedSequence s WHERE s.id = :id")
+    Long findLastSeq(@Param("id") Long id);
+    
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO change_feed_sequence (id, last_seq, pruned_seq) VALUES (:id, 0, 0)", nativeQuery = true)
+    void insertIfMissing(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE ChangeFeedSequence s SET s.prunedSeq = :seq WHERE s.id = :id AND s.prunedSeq < :seq")
+    int raisePrunedSeq(@Param("id") Long id, @Param("seq") Long seq);
+}
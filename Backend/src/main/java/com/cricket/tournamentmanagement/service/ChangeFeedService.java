@@ -0,0 +1,245 @@
+package com.cricket.tournamentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.cricket.tournamentmanagement.dto.ChangeFeedResponse;
+import com.cricket.tournamentmanagement.model.ChangeEvent;
+import com.cricket.tournamentmanagement.model.ChangeFeedSequence;
+import com.cricket.tournamentmanagement.repository.ChangeEventRepository;
+import com.cricket.tournamentmanagement.repository.ChangeFeedSequenceRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transactional outbox and change feed for Tournament, Team, Player and Match writes.
+ * <p>
+ * Sequence numbers come from the locked {@link ChangeFeedSequence} row, which is held
+ * until the writing transaction commits, so events become visible in sequence order
+ * even with several app instances. Long-poll wakeups on commit are local to this
+ * instance; commits made by other instances are picked up by a periodic check of
+ * {@code last_seq}, which only queries events for waiters it has moved past.
+ */
+@Service
+public class ChangeFeedService {
+    
+    public static final String CREATE = "CREATE";
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+    
+    static final Long SEQUENCE_ID = 1L;
+    
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+    
+    @Autowired
+    private ChangeFeedSequenceRepository changeFeedSequenceRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${changefeed.max-batch-size:500}")
+    private int maxBatchSize;
+    
+    @Value("${changefeed.max-wait-seconds:30}")
+    private int maxWaitSeconds;
+    
+    @Value("${changefeed.retention-hours:72}")
+    private long retentionHours;
+    
+    private final AtomicLong commitCount = new AtomicLong();
+    
+    private final AtomicBoolean wakePending = new AtomicBoolean();
+    
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    
+    private final ExecutorService notifier = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    // Seeded before the web server starts so writers never race to create the row.
+    @PostConstruct
+    public void seedSequence() {
+        changeFeedSequenceRepository.insertIfMissing(SEQUENCE_ID);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String entityType, Long entityId, String operation, Object entity) {
+        ChangeFeedSequence sequence = changeFeedSequenceRepository.findByIdForUpdate(SEQUENCE_ID).orElseThrow();
+        long seq = sequence.getLastSeq() + 1;
+        sequence.setLastSeq(seq);
+        
+        ChangeEvent event = new ChangeEvent();
+        event.setSeq(seq);
+        event.setEntityType(entityType);
+        event.setEntityId(entityId);
+        event.setOperation(operation);
+        event.setPayload(entity == null ? null : toJson(entity));
+        event.setCreatedAt(LocalDateTime.now());
+        changeEventRepository.save(event);
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                commitCount.incrementAndGet();
+                // One queued pass covers every commit that lands before it starts.
+                if (wakePending.compareAndSet(false, true)) {
+                    notifier.execute(() -> {
+                        wakePending.set(false);
+                        wakeWaiters();
+                    });
+                }
+            }
+        });
+    }
+    
+    /**
+     * Returns events after {@code after}, keeping only the latest event per entity.
+     * A null {@code limit} means {@code changefeed.max-batch-size}. When nothing is
+     * pending, the result completes on the next commit or, after {@code waitSeconds},
+     * with no changes and {@code lastSeq == after}.
+     */
+    public DeferredResult<ChangeFeedResponse> getChanges(long after, Integer limit, int waitSeconds) {
+        int batchSize = limit == null ? maxBatchSize : Math.max(1, Math.min(limit, maxBatchSize));
+        long waitMillis = Math.min(Math.max(waitSeconds, 0), maxWaitSeconds) * 1000L;
+        DeferredResult<ChangeFeedResponse> result = waitMillis > 0 ? new DeferredResult<>(waitMillis) : new DeferredResult<>();
+        
+        long observedCommits = commitCount.get();
+        ChangeFeedResponse response = read(after, batchSize);
+        if (hasNews(response) || waitMillis == 0) {
+            result.setResult(response);
+            return result;
+        }
+        
+        Waiter waiter = new Waiter(after, batchSize, result);
+        result.onTimeout(() -> result.setResult(emptyResponse(after)));
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // A commit between the read above and registering the waiter would otherwise go unnoticed.
+        if (commitCount.get() != observedCommits) {
+            offer(waiter, read(after, batchSize));
+        }
+        return result;
+    }
+    
+    @Scheduled(fixedDelayString = "${changefeed.poll-interval-ms:1000}")
+    public void pollForRemoteCommits() {
+        wakeWaiters();
+    }
+    
+    @Scheduled(fixedDelayString = "${changefeed.prune-interval-ms:3600000}")
+    @Transactional
+    public void pruneOldEvents() {
+        Long prunedSeq = changeEventRepository.findMaxSeqCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (prunedSeq == null) {
+            return;
+        }
+        changeEventRepository.deleteUpTo(prunedSeq);
+        changeFeedSequenceRepository.raisePrunedSeq(SEQUENCE_ID, prunedSeq);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        notifier.shutdownNow();
+    }
+    
+    void wakeWaiters() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        Long lastSeq = changeFeedSequenceRepository.findLastSeq(SEQUENCE_ID);
+        if (lastSeq == null) {
+            return;
+        }
+        // Waiters sharing a position and batch size are served from one read.
+        Map<String, ChangeFeedResponse> responses = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            if (waiter.after() >= lastSeq) {
+                continue;
+            }
+            try {
+                ChangeFeedResponse response = responses.computeIfAbsent(waiter.after() + ":" + waiter.batchSize(),
+                        key -> read(waiter.after(), waiter.batchSize()));
+                offer(waiter, response);
+            } catch (RuntimeException e) {
+                waiters.remove(waiter);
+                waiter.result().setErrorResult(e);
+            }
+        }
+    }
+    
+    private void offer(Waiter waiter, ChangeFeedResponse response) {
+        if (hasNews(response)) {
+            waiters.remove(waiter);
+            waiter.result().setResult(response);
+        }
+    }
+    
+    private ChangeFeedResponse read(long after, int batchSize) {
+        List<ChangeEvent> events = changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(after, PageRequest.of(0, batchSize));
+        // Checked after fetching, so a prune that lands in between is still reported.
+        ChangeFeedSequence sequence = changeFeedSequenceRepository.findById(SEQUENCE_ID).orElse(null);
+        if (sequence != null && after < sequence.getPrunedSeq()) {
+            return new ChangeFeedResponse(sequence.getLastSeq(), true, new ArrayList<>());
+        }
+        if (events.isEmpty()) {
+            return emptyResponse(after);
+        }
+        long lastSeq = events.get(events.size() - 1).getSeq();
+        return new ChangeFeedResponse(lastSeq, false, compact(events));
+    }
+    
+    private boolean hasNews(ChangeFeedResponse response) {
+        return response.isResyncRequired() || !response.getChanges().isEmpty();
+    }
+    
+    private ChangeFeedResponse emptyResponse(long after) {
+        return new ChangeFeedResponse(after, false, new ArrayList<>());
+    }
+    
+    private List<ChangeEvent> compact(List<ChangeEvent> events) {
+        Map<String, ChangeEvent> latest = new LinkedHashMap<>();
+        for (ChangeEvent event : events) {
+            String key = event.getEntityType() + ":" + event.getEntityId();
+            latest.remove(key);
+            latest.put(key, event);
+        }
+        return new ArrayList<>(latest.values());
+    }
+    
+    private String toJson(Object entity) {
+        try {
+            return objectMapper.writeValueAsString(entity);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize change payload", e);
+        }
+    }
+    
+    private record Waiter(long after, int batchSize, DeferredResult<ChangeFeedResponse> result) {
+    }
+}
@@ -2,6 +2,7 @@ package com.cricket.tournamentmanagement.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cricket.tournamentmanagement.model.Match;
 import com.cricket.tournamentmanagement.repository.MatchRepository;
@@ -15,6 +16,9 @@ public class MatchService {
     @Autowired
     private MatchRepository matchRepository;
     
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
     public List<Match> getAllMatches() {
         return matchRepository.findAll();
     }
@@ -23,16 +27,26 @@ public class MatchService {
         return matchRepository.findById(id);
     }
     
+    @Transactional
     public Match createMatch(Match match) {
-        return matchRepository.save(match);
+        Match saved = matchRepository.save(match);
+        changeFeedService.record("Match", saved.getId(), ChangeFeedService.CREATE, saved);
+        return saved;
     }
     
+    @Transactional
     public Match updateMatch(Long id, Match match) {
         match.setId(id);
-        return matchRepository.save(match);
+        Match saved = matchRepository.save(match);
+        changeFeedService.record("Match", id, ChangeFeedService.UPDATE, saved);
+        return saved;
     }
     
+    @Transactional
     public void deleteMatch(Long id) {
-        matchRepository.deleteById(id);
+        if (matchRepository.existsById(id)) {
+            matchRepository.deleteById(id);
+            changeFeedService.record("Match", id, ChangeFeedService.DELETE, null);
+        }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.cricket.tournamentmanagement.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cricket.tournamentmanagement.model.Player;
 import com.cricket.tournamentmanagement.repository.PlayerRepository;
@@ -15,6 +16,9 @@ public class PlayerService {
     @Autowired
     private PlayerRepository playerRepository;
     
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
     public List<Player> getAllPlayers() {
         return playerRepository.findAll();
     }
@@ -23,16 +27,26 @@ public class PlayerService {
         return playerRepository.findById(id);
     }
     
+    @Transactional
     public Player createPlayer(Player player) {
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        changeFeedService.record("Player", saved.getId(), ChangeFeedService.CREATE, saved);
+        return saved;
     }
     
+    @Transactional
     public Player updatePlayer(Long id, Player player) {
         player.setId(id);
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        changeFeedService.record("Player", id, ChangeFeedService.UPDATE, saved);
+        return saved;
     }
     
+    @Transactional
     public void deletePlayer(Long id) {
-        playerRepository.deleteById(id);
+        if (playerRepository.existsById(id)) {
+            playerRepository.deleteById(id);
+            changeFeedService.record("Player", id, ChangeFeedService.DELETE, null);
+        }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.cricket.tournamentmanagement.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cricket.tournamentmanagement.model.Team;
 import com.cricket.tournamentmanagement.repository.TeamRepository;
@@ -15,6 +16,9 @@ public class TeamService {
     @Autowired
     private TeamRepository teamRepository;
     
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
     public List<Team> getAllTeams() {
         return teamRepository.findAll();
     }
@@ -23,16 +27,26 @@ public class TeamService {
         return teamRepository.findById(id);
     }
     
+    @Transactional
     public Team createTeam(Team team) {
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        changeFeedService.record("Team", saved.getId(), ChangeFeedService.CREATE, saved);
+        return saved;
     }
     
+    @Transactional
     public Team updateTeam(Long id, Team team) {
         team.setId(id);
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        changeFeedService.record("Team", id, ChangeFeedService.UPDATE, saved);
+        return saved;
     }
     
+    @Transactional
     public void deleteTeam(Long id) {
-        teamRepository.deleteById(id);
+        if (teamRepository.existsById(id)) {
+            teamRepository.deleteById(id);
+            changeFeedService.record("Team", id, ChangeFeedService.DELETE, null);
+        }
     }
 }
\ No newline at end of file
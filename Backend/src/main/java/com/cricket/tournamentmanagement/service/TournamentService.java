@@ -2,6 +2,7 @@ package com.cricket.tournamentmanagement.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.cricket.tournamentmanagement.model.Tournament;
 import com.cricket.tournamentmanagement.repository.TournamentRepository;
@@ -15,6 +16,9 @@ public class TournamentService {
     @Autowired
     private TournamentRepository tournamentRepository;
     
+    @Autowired
+    private ChangeFeedService changeFeedService;
+    
     public List<Tournament> getAllTournaments() {
         return tournamentRepository.findAll();
     }
@@ -23,16 +27,26 @@ public class TournamentService {
         return tournamentRepository.findById(id);
     }
     
+    @Transactional
     public Tournament createTournament(Tournament tournament) {
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        changeFeedService.record("Tournament", saved.getId(), ChangeFeedService.CREATE, saved);
+        return saved;
     }
     
+    @Transactional
     public Tournament updateTournament(Long id, Tournament tournament) {
         tournament.setId(id);
-        return tournamentRepository.save(tournament);
+        Tournament saved = tournamentRepository.save(tournament);
+        changeFeedService.record("Tournament", id, ChangeFeedService.UPDATE, saved);
+        return saved;
     }
     
+    @Transactional
     public void deleteTournament(Long id) {
-        tournamentRepository.deleteById(id);
+        if (tournamentRepository.existsById(id)) {
+            tournamentRepository.deleteById(id);
+            changeFeedService.record("Tournament", id, ChangeFeedService.DELETE, null);
+        }
     }
 }
\ No newline at end of file
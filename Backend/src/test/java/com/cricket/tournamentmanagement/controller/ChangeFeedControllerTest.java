@@ -0,0 +1,102 @@
+package com.cricket.tournamentmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.cricket.tournamentmanagement.model.ChangeEvent;
+import com.cricket.tournamentmanagement.model.ChangeFeedSequence;
+import com.cricket.tournamentmanagement.repository.ChangeEventRepository;
+import com.cricket.tournamentmanagement.repository.ChangeFeedSequenceRepository;
+import com.cricket.tournamentmanagement.service.ChangeFeedService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedControllerTest {
+
+    @Mock
+    private ChangeEventRepository changeEventRepository;
+
+    @Mock
+    private ChangeFeedSequenceRepository changeFeedSequenceRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ChangeFeedService changeFeedService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeFeedService, "maxBatchSize", 500);
+        ReflectionTestUtils.setField(changeFeedService, "maxWaitSeconds", 30);
+        ChangeFeedController controller = new ChangeFeedController();
+        ReflectionTestUtils.setField(controller, "changeFeedService", changeFeedService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(changeFeedSequenceRepository.findById(anyLong()))
+                .thenReturn(Optional.of(new ChangeFeedSequence(1L, 0L, 0L)));
+    }
+
+    @Test
+    void longPollTimeoutReturnsAfterWithNoChanges() throws Exception {
+        when(changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(12L), any(Pageable.class))).thenReturn(List.of());
+
+        MvcResult pending = mockMvc.perform(get("/api/changes").param("after", "12").param("waitSeconds", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) pending.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastSeq").value(12))
+                .andExpect(jsonPath("$.resyncRequired").value(false))
+                .andExpect(jsonPath("$.changes").isEmpty());
+    }
+
+    @Test
+    void payloadIsReturnedAsJsonObject() throws Exception {
+        ChangeEvent event = new ChangeEvent(1L, "Team", 10L, ChangeFeedService.CREATE,
+                "{\"id\":10,\"name\":\"Lions\"}", LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class))).thenReturn(List.of(event));
+
+        MvcResult result = mockMvc.perform(get("/api/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastSeq").value(1))
+                .andExpect(jsonPath("$.changes[0].payload.name").value("Lions"));
+    }
+}
@@ -0,0 +1,301 @@
+package com.cricket.tournamentmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.cricket.tournamentmanagement.dto.ChangeFeedResponse;
+import com.cricket.tournamentmanagement.model.ChangeEvent;
+import com.cricket.tournamentmanagement.model.ChangeFeedSequence;
+import com.cricket.tournamentmanagement.model.Team;
+import com.cricket.tournamentmanagement.repository.ChangeEventRepository;
+import com.cricket.tournamentmanagement.repository.ChangeFeedSequenceRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    @Mock
+    private ChangeEventRepository changeEventRepository;
+
+    @Mock
+    private ChangeFeedSequenceRepository changeFeedSequenceRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeFeedService, "maxBatchSize", 500);
+        ReflectionTestUtils.setField(changeFeedService, "maxWaitSeconds", 30);
+        ReflectionTestUtils.setField(changeFeedService, "retentionHours", 72L);
+    }
+
+    @Test
+    void compactionKeepsLatestEventPerEntityInSequenceOrder() {
+        stubEvents(0L, List.of(
+                event(1L, "Team", 10L, ChangeFeedService.CREATE),
+                event(2L, "Player", 20L, ChangeFeedService.CREATE),
+                event(3L, "Team", 10L, ChangeFeedService.UPDATE),
+                event(4L, "Match", 30L, ChangeFeedService.CREATE),
+                event(5L, "Player", 20L, ChangeFeedService.DELETE)));
+        stubSequence(5L, 0L);
+
+        ChangeFeedResponse response = resultOf(changeFeedService.getChanges(0L, 100, 0));
+
+        assertThat(response.getChanges())
+                .extracting(ChangeEvent::getSeq)
+                .containsExactly(3L, 4L, 5L);
+        assertThat(response.getChanges())
+                .extracting(ChangeEvent::getOperation)
+                .containsExactly(ChangeFeedService.UPDATE, ChangeFeedService.CREATE, ChangeFeedService.DELETE);
+    }
+
+    @Test
+    void lastSeqAdvancesPastCompactedAwayEvents() {
+        stubEvents(7L, List.of(
+                event(8L, "Team", 10L, ChangeFeedService.UPDATE),
+                event(9L, "Team", 10L, ChangeFeedService.UPDATE)));
+        stubSequence(9L, 0L);
+
+        ChangeFeedResponse response = resultOf(changeFeedService.getChanges(7L, 100, 0));
+
+        assertThat(response.getLastSeq()).isEqualTo(9L);
+        assertThat(response.isResyncRequired()).isFalse();
+        assertThat(response.getChanges()).extracting(ChangeEvent::getSeq).containsExactly(9L);
+    }
+
+    @Test
+    void limitIsClampedToMaxBatchSize() {
+        stubSequence(0L, 0L);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), pageable.capture())).thenReturn(List.of());
+
+        changeFeedService.getChanges(0L, 10_000, 0);
+        changeFeedService.getChanges(0L, -5, 0);
+
+        assertThat(pageable.getAllValues()).extracting(Pageable::getPageSize).containsExactly(500, 1);
+    }
+
+    @Test
+    void missingLimitUsesMaxBatchSize() {
+        ReflectionTestUtils.setField(changeFeedService, "maxBatchSize", 250);
+        stubSequence(0L, 0L);
+        stubEvents(0L, List.of());
+
+        changeFeedService.getChanges(0L, null, 0);
+
+        verify(changeEventRepository).findBySeqGreaterThanOrderBySeqAsc(0L, PageRequest.of(0, 250));
+    }
+
+    @Test
+    void waitSecondsIsClampedToMaxWait() {
+        stubEvents(0L, List.of());
+        stubSequence(0L, 0L);
+
+        DeferredResult<ChangeFeedResponse> result = changeFeedService.getChanges(0L, 100, 600);
+
+        assertThat(result.hasResult()).isFalse();
+        assertThat(ReflectionTestUtils.getField(result, "timeoutValue")).isEqualTo(30_000L);
+    }
+
+    @Test
+    void emptyFeedWithoutWaitReturnsAfter() {
+        stubEvents(42L, List.of());
+        stubSequence(42L, 0L);
+
+        ChangeFeedResponse response = resultOf(changeFeedService.getChanges(42L, 100, 0));
+
+        assertThat(response.getLastSeq()).isEqualTo(42L);
+        assertThat(response.isResyncRequired()).isFalse();
+        assertThat(response.getChanges()).isEmpty();
+    }
+
+    @Test
+    void waitingRequestCompletesWhenWaitersAreWoken() {
+        stubSequence(1L, 0L);
+        when(changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(event(1L, "Team", 10L, ChangeFeedService.CREATE)));
+        when(changeFeedSequenceRepository.findLastSeq(ChangeFeedService.SEQUENCE_ID)).thenReturn(1L);
+
+        DeferredResult<ChangeFeedResponse> result = changeFeedService.getChanges(0L, 100, 10);
+        assertThat(result.hasResult()).isFalse();
+
+        changeFeedService.wakeWaiters();
+        changeFeedService.wakeWaiters();
+
+        assertThat(resultOf(result).getLastSeq()).isEqualTo(1L);
+        // The completed waiter is dropped, so the second pass reads nothing.
+        verify(changeEventRepository, times(2)).findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class));
+        verify(changeFeedSequenceRepository, times(1)).findLastSeq(ChangeFeedService.SEQUENCE_ID);
+    }
+
+    @Test
+    void wakeSkipsWaitersLastSeqHasNotPassed() {
+        stubEvents(5L, List.of());
+        stubSequence(5L, 0L);
+        when(changeFeedSequenceRepository.findLastSeq(ChangeFeedService.SEQUENCE_ID)).thenReturn(5L);
+
+        DeferredResult<ChangeFeedResponse> result = changeFeedService.getChanges(5L, 100, 10);
+        changeFeedService.wakeWaiters();
+
+        assertThat(result.hasResult()).isFalse();
+        verify(changeEventRepository, times(1)).findBySeqGreaterThanOrderBySeqAsc(eq(5L), any(Pageable.class));
+    }
+
+    @Test
+    void waitersAtSamePositionShareOneRead() {
+        stubSequence(1L, 0L);
+        when(changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of())
+                .thenReturn(List.of(event(1L, "Team", 10L, ChangeFeedService.CREATE)));
+        when(changeFeedSequenceRepository.findLastSeq(ChangeFeedService.SEQUENCE_ID)).thenReturn(1L);
+
+        DeferredResult<ChangeFeedResponse> first = changeFeedService.getChanges(0L, 100, 10);
+        DeferredResult<ChangeFeedResponse> second = changeFeedService.getChanges(0L, 100, 10);
+        changeFeedService.wakeWaiters();
+
+        assertThat(resultOf(first).getLastSeq()).isEqualTo(1L);
+        assertThat(resultOf(second).getLastSeq()).isEqualTo(1L);
+        verify(changeEventRepository, times(3)).findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    void commitsQueueAtMostOneWakePass() {
+        ExecutorService notifier = mock(ExecutorService.class);
+        ReflectionTestUtils.setField(changeFeedService, "notifier", notifier);
+        when(changeFeedSequenceRepository.findByIdForUpdate(ChangeFeedService.SEQUENCE_ID))
+                .thenReturn(Optional.of(new ChangeFeedSequence(ChangeFeedService.SEQUENCE_ID, 0L, 0L)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeedService.record("Team", 1L, ChangeFeedService.CREATE, null);
+            changeFeedService.record("Team", 2L, ChangeFeedService.CREATE, null);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<Runnable> pass = ArgumentCaptor.forClass(Runnable.class);
+        verify(notifier, times(1)).execute(pass.capture());
+
+        // Once the queued pass starts, the next commit may queue another.
+        pass.getValue().run();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeedService.record("Team", 3L, ChangeFeedService.UPDATE, null);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(notifier, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void seedSequenceCreatesCounterRow() {
+        changeFeedService.seedSequence();
+
+        verify(changeFeedSequenceRepository).insertIfMissing(ChangeFeedService.SEQUENCE_ID);
+    }
+
+    @Test
+    void afterBelowPrunedSeqRequiresResync() {
+        stubEvents(3L, List.of(event(50L, "Team", 10L, ChangeFeedService.UPDATE)));
+        stubSequence(60L, 40L);
+
+        ChangeFeedResponse response = resultOf(changeFeedService.getChanges(3L, 100, 0));
+
+        assertThat(response.isResyncRequired()).isTrue();
+        assertThat(response.getLastSeq()).isEqualTo(60L);
+        assertThat(response.getChanges()).isEmpty();
+    }
+
+    @Test
+    void pruneRecordsHighestDeletedSeq() {
+        when(changeEventRepository.findMaxSeqCreatedBefore(any(LocalDateTime.class))).thenReturn(40L);
+
+        changeFeedService.pruneOldEvents();
+
+        verify(changeEventRepository).deleteUpTo(40L);
+        verify(changeFeedSequenceRepository).raisePrunedSeq(ChangeFeedService.SEQUENCE_ID, 40L);
+    }
+
+    @Test
+    void pruneWithNothingExpiredLeavesFeedUntouched() {
+        when(changeEventRepository.findMaxSeqCreatedBefore(any(LocalDateTime.class))).thenReturn(null);
+
+        changeFeedService.pruneOldEvents();
+
+        verify(changeEventRepository, never()).deleteUpTo(anyLong());
+        verify(changeFeedSequenceRepository, never()).raisePrunedSeq(any(), anyLong());
+    }
+
+    @Test
+    void recordTakesNextSequenceNumber() {
+        ChangeFeedSequence sequence = new ChangeFeedSequence(ChangeFeedService.SEQUENCE_ID, 7L, 0L);
+        when(changeFeedSequenceRepository.findByIdForUpdate(ChangeFeedService.SEQUENCE_ID)).thenReturn(Optional.of(sequence));
+        Team team = new Team(10L, "Lions", 1L, "Captain", "Coach", 11);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeFeedService.record("Team", 10L, ChangeFeedService.CREATE, team);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<ChangeEvent> saved = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(changeEventRepository).save(saved.capture());
+        assertThat(saved.getValue().getSeq()).isEqualTo(8L);
+        assertThat(saved.getValue().getPayload()).contains("\"name\":\"Lions\"");
+        assertThat(sequence.getLastSeq()).isEqualTo(8L);
+    }
+
+    private void stubEvents(long after, List<ChangeEvent> events) {
+        when(changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(after), any(Pageable.class))).thenReturn(events);
+    }
+
+    private void stubSequence(long lastSeq, long prunedSeq) {
+        when(changeFeedSequenceRepository.findById(ChangeFeedService.SEQUENCE_ID))
+                .thenReturn(Optional.of(new ChangeFeedSequence(ChangeFeedService.SEQUENCE_ID, lastSeq, prunedSeq)));
+    }
+
+    private static ChangeEvent event(long seq, String entityType, long entityId, String operation) {
+        return new ChangeEvent(seq, entityType, entityId, operation, null, LocalDateTime.now());
+    }
+
+    private static ChangeFeedResponse resultOf(DeferredResult<ChangeFeedResponse> result) {
+        assertThat(result.hasResult()).isTrue();
+        return (ChangeFeedResponse) result.getResult();
+    }
+}
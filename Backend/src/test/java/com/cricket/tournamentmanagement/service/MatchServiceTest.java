@@ -0,0 +1,73 @@
+package com.cricket.tournamentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.tournamentmanagement.model.Match;
+import com.cricket.tournamentmanagement.repository.MatchRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MatchServiceTest {
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @InjectMocks
+    private MatchService matchService;
+
+    @Test
+    void createRecordsCreateEventForSavedId() {
+        Match saved = new Match();
+        saved.setId(7L);
+        when(matchRepository.save(any(Match.class))).thenReturn(saved);
+
+        matchService.createMatch(new Match());
+
+        verify(changeFeedService).record("Match", 7L, ChangeFeedService.CREATE, saved);
+    }
+
+    @Test
+    void updateRecordsUpdateEventForPathId() {
+        Match match = new Match();
+        when(matchRepository.save(match)).thenReturn(match);
+
+        matchService.updateMatch(3L, match);
+
+        assertThat(match.getId()).isEqualTo(3L);
+        verify(changeFeedService).record("Match", 3L, ChangeFeedService.UPDATE, match);
+    }
+
+    @Test
+    void deleteOfMissingMatchRecordsNothing() {
+        when(matchRepository.existsById(99L)).thenReturn(false);
+
+        matchService.deleteMatch(99L);
+
+        verify(matchRepository, never()).deleteById(anyLong());
+        verify(changeFeedService, never()).record(anyString(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    void deleteOfExistingMatchRecordsDeleteEvent() {
+        when(matchRepository.existsById(5L)).thenReturn(true);
+
+        matchService.deleteMatch(5L);
+
+        verify(matchRepository).deleteById(5L);
+        verify(changeFeedService).record("Match", 5L, ChangeFeedService.DELETE, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.cricket.tournamentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.tournamentmanagement.model.Player;
+import com.cricket.tournamentmanagement.repository.PlayerRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @InjectMocks
+    private PlayerService playerService;
+
+    @Test
+    void createRecordsCreateEventForSavedId() {
+        Player saved = new Player();
+        saved.setId(7L);
+        when(playerRepository.save(any(Player.class))).thenReturn(saved);
+
+        playerService.createPlayer(new Player());
+
+        verify(changeFeedService).record("Player", 7L, ChangeFeedService.CREATE, saved);
+    }
+
+    @Test
+    void updateRecordsUpdateEventForPathId() {
+        Player player = new Player();
+        when(playerRepository.save(player)).thenReturn(player);
+
+        playerService.updatePlayer(3L, player);
+
+        assertThat(player.getId()).isEqualTo(3L);
+        verify(changeFeedService).record("Player", 3L, ChangeFeedService.UPDATE, player);
+    }
+
+    @Test
+    void deleteOfMissingPlayerRecordsNothing() {
+        when(playerRepository.existsById(99L)).thenReturn(false);
+
+        playerService.deletePlayer(99L);
+
+        verify(playerRepository, never()).deleteById(anyLong());
+        verify(changeFeedService, never()).record(anyString(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    void deleteOfExistingPlayerRecordsDeleteEvent() {
+        when(playerRepository.existsById(5L)).thenReturn(true);
+
+        playerService.deletePlayer(5L);
+
+        verify(playerRepository).deleteById(5L);
+        verify(changeFeedService).record("Player", 5L, ChangeFeedService.DELETE, null);
+    }
+}
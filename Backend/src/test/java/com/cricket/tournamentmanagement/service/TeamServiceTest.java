@@ -0,0 +1,73 @@
+package com.cricket.tournamentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.tournamentmanagement.model.Team;
+import com.cricket.tournamentmanagement.repository.TeamRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamServiceTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @InjectMocks
+    private TeamService teamService;
+
+    @Test
+    void createRecordsCreateEventForSavedId() {
+        Team saved = new Team();
+        saved.setId(7L);
+        when(teamRepository.save(any(Team.class))).thenReturn(saved);
+
+        teamService.createTeam(new Team());
+
+        verify(changeFeedService).record("Team", 7L, ChangeFeedService.CREATE, saved);
+    }
+
+    @Test
+    void updateRecordsUpdateEventForPathId() {
+        Team team = new Team();
+        when(teamRepository.save(team)).thenReturn(team);
+
+        teamService.updateTeam(3L, team);
+
+        assertThat(team.getId()).isEqualTo(3L);
+        verify(changeFeedService).record("Team", 3L, ChangeFeedService.UPDATE, team);
+    }
+
+    @Test
+    void deleteOfMissingTeamRecordsNothing() {
+        when(teamRepository.existsById(99L)).thenReturn(false);
+
+        teamService.deleteTeam(99L);
+
+        verify(teamRepository, never()).deleteById(anyLong());
+        verify(changeFeedService, never()).record(anyString(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    void deleteOfExistingTeamRecordsDeleteEvent() {
+        when(teamRepository.existsById(5L)).thenReturn(true);
+
+        teamService.deleteTeam(5L);
+
+        verify(teamRepository).deleteById(5L);
+        verify(changeFeedService).record("Team", 5L, ChangeFeedService.DELETE, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.cricket.tournamentmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.cricket.tournamentmanagement.model.Tournament;
+import com.cricket.tournamentmanagement.repository.TournamentRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TournamentServiceTest {
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
+    @InjectMocks
+    private TournamentService tournamentService;
+
+    @Test
+    void createRecordsCreateEventForSavedId() {
+        Tournament saved = new Tournament();
+        saved.setId(7L);
+        when(tournamentRepository.save(any(Tournament.class))).thenReturn(saved);
+
+        tournamentService.createTournament(new Tournament());
+
+        verify(changeFeedService).record("Tournament", 7L, ChangeFeedService.CREATE, saved);
+    }
+
+    @Test
+    void updateRecordsUpdateEventForPathId() {
+        Tournament tournament = new Tournament();
+        when(tournamentRepository.save(tournament)).thenReturn(tournament);
+
+        tournamentService.updateTournament(3L, tournament);
+
+        assertThat(tournament.getId()).isEqualTo(3L);
+        verify(changeFeedService).record("Tournament", 3L, ChangeFeedService.UPDATE, tournament);
+    }
+
+    @Test
+    void deleteOfMissingTournamentRecordsNothing() {
+        when(tournamentRepository.existsById(99L)).thenReturn(false);
+
+        tournamentService.deleteTournament(99L);
+
+        verify(tournamentRepository, never()).deleteById(anyLong());
+        verify(changeFeedService, never()).record(anyString(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    void deleteOfExistingTournamentRecordsDeleteEvent() {
+        when(tournamentRepository.existsById(5L)).thenReturn(true);
+
+        tournamentService.deleteTournament(5L);
+
+        verify(tournamentRepository).deleteById(5L);
+        verify(changeFeedService).record("Tournament", 5L, ChangeFeedService.DELETE, null);
+    }
+}